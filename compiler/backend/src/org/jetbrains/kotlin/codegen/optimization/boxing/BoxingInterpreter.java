@@ -100,6 +100,9 @@ public class BoxingInterpreter extends OptimizationBasicInterpreter {
                     progressionIterator
             );
         }
+        else if (isStringBuilderAppendOfObject(insn) && values.get(1) instanceof BoxedBasicValue) {
+            onStringBuilderAppend(insn, (BoxedBasicValue) values.get(1));
+        }
         else {
             // nary operation should be a method call or multinewarray
             // arguments for multinewarray could be only numeric
@@ -153,6 +156,16 @@ public class BoxingInterpreter extends OptimizationBasicInterpreter {
                ).equals(node.desc);
     }
 
+    // StringBuilder.append(Object) on a boxed value appends the same text as the overload for the corresponding primitive
+    static boolean isStringBuilderAppendOfObject(@NotNull AbstractInsnNode insn) {
+        if (insn.getOpcode() != Opcodes.INVOKEVIRTUAL) return false;
+
+        MethodInsnNode methodInsn = (MethodInsnNode) insn;
+
+        return "java/lang/StringBuilder".equals(methodInsn.owner) && "append".equals(methodInsn.name) &&
+               "(Ljava/lang/Object;)Ljava/lang/StringBuilder;".equals(methodInsn.desc);
+    }
+
     private static boolean isNextMethodCallOfProgressionIterator(
             @NotNull AbstractInsnNode insn, @NotNull List<? extends BasicValue> values
     ) {
@@ -238,6 +251,10 @@ public class BoxingInterpreter extends OptimizationBasicInterpreter {
 
     }
 
+    protected void onStringBuilderAppend(@NotNull AbstractInsnNode insn, @NotNull BoxedBasicValue value) {
+        onMethodCallWithBoxedValue(value);
+    }
+
     protected void onMergeFail(@NotNull BoxedBasicValue value) {
 
     }
@@ -28,6 +28,8 @@ import org.jetbrains.org.objectweb.asm.tree.VarInsnNode;
 import org.jetbrains.org.objectweb.asm.tree.analysis.AnalyzerException;
 import org.jetbrains.org.objectweb.asm.tree.analysis.BasicValue;
 
+import java.io.Serializable;
+
 class RedundantBoxingInterpreter extends BoxingInterpreter {
     private static final ImmutableSet<Integer> PERMITTED_OPERATIONS_OPCODES = ImmutableSet.of(
             Opcodes.ASTORE, Opcodes.ALOAD, Opcodes.POP, Opcodes.DUP, Opcodes.CHECKCAST, Opcodes.INSTANCEOF
@@ -37,6 +39,11 @@ class RedundantBoxingInterpreter extends BoxingInterpreter {
             Type.BYTE, Type.SHORT, Type.INT, Type.FLOAT, Type.LONG, Type.DOUBLE
     );
 
+    // Every primitive wrapper implements these, so casting a boxed value to them always succeeds
+    private static final ImmutableSet<String> INTERFACES_IMPLEMENTED_BY_WRAPPERS = ImmutableSet.of(
+            Type.getInternalName(Comparable.class), Type.getInternalName(Serializable.class)
+    );
+
     private final RedundantBoxedValuesCollection values = new RedundantBoxedValuesCollection();
 
     public RedundantBoxingInterpreter(InsnList insnList) {
@@ -91,6 +98,8 @@ class RedundantBoxingInterpreter extends BoxingInterpreter {
     private static boolean isSafeCast(@NotNull BoxedBasicValue value, @NotNull String targetInternalName) {
         if (targetInternalName.equals(Type.getInternalName(Object.class))) return true;
 
+        if (INTERFACES_IMPLEMENTED_BY_WRAPPERS.contains(targetInternalName)) return true;
+
         if (targetInternalName.equals(Type.getInternalName(Number.class))) {
             return PRIMITIVE_TYPES_SORTS_WITH_WRAPPER_EXTENDS_NUMBER.contains(
                     value.getPrimitiveType().getSort()
@@ -138,6 +147,11 @@ class RedundantBoxingInterpreter extends BoxingInterpreter {
         markValueAsDirty(value);
     }
 
+    @Override
+    protected void onStringBuilderAppend(@NotNull AbstractInsnNode insn, @NotNull BoxedBasicValue value) {
+        addAssociatedInsn(value, insn);
+    }
+
     @Override
     protected void onMergeFail(@NotNull BoxedBasicValue v) {
         markValueAsDirty(v);
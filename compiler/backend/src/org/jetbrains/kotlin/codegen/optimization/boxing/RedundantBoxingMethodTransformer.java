@@ -331,8 +331,20 @@ public class RedundantBoxingMethodTransformer extends MethodTransformer {
                 );
                 node.instructions.set(insn, new InsnNode(Opcodes.ICONST_1));
                 break;
+            case Opcodes.INVOKEVIRTUAL:
+                if (BoxingInterpreter.isStringBuilderAppendOfObject(insn)) {
+                    Type appendType = value.getPrimitiveType().getSort() == Type.BYTE || value.getPrimitiveType().getSort() == Type.SHORT
+                                      ? Type.INT_TYPE
+                                      : value.getPrimitiveType();
+                    ((MethodInsnNode) insn).desc = "(" + appendType.getDescriptor() + ")Ljava/lang/StringBuilder;";
+                }
+                else {
+                    // unboxing-method call
+                    node.instructions.remove(insn);
+                }
+                break;
             default:
-                // CHECKCAST or unboxing-method call
+                // CHECKCAST
                 node.instructions.remove(insn);
         }
     }
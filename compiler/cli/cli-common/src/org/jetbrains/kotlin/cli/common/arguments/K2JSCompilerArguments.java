@@ -55,6 +55,9 @@ public class K2JSCompilerArguments extends CommonCompilerArguments {
     @ValueDescription("<path>")
     public String outputPostfix;
 
+    @Argument(value = "Xcompact-output", description = "Generate JS code without indentation and optional whitespace")
+    public boolean compactOutput;
+
     @Override
     @NotNull
     public String executableScriptFileName() {
@@ -66,6 +66,10 @@ public class K2JVMCompilerArguments extends CommonCompilerArguments {
     @Argument(value = "Xno-optimize", description = "Disable optimizations")
     public boolean noOptimize;
 
+    @Argument(value = "Xscript-cache", description = "Directory where classes compiled from scripts are kept to be reused by later runs")
+    @ValueDescription("<path>")
+    public String scriptCache;
+
     @Override
     @NotNull
     public String executableScriptFileName() {
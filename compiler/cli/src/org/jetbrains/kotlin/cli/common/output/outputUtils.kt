@@ -22,6 +22,7 @@ import org.jetbrains.kotlin.cli.common.messages.OutputMessageUtil
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector
 import java.io.File
+import java.util.Arrays
 import com.intellij.openapi.util.io.FileUtil
 
 public fun OutputFileCollection.writeAll(outputDir: File, report: (sources: List<File>, output: File) -> Unit) {
@@ -29,10 +30,17 @@ public fun OutputFileCollection.writeAll(outputDir: File, report: (sources: List
         val sources = file.sourceFiles
         val output = File(outputDir, file.relativePath)
         report(sources, output)
-        FileUtil.writeToFile(output, file.asByteArray())
+        val bytes = file.asByteArray()
+        // Rewriting a file with the same contents would still update its timestamp and make tools depending on it do extra work
+        if (!output.hasContent(bytes)) {
+            FileUtil.writeToFile(output, bytes)
+        }
     }
 }
 
+private fun File.hasContent(bytes: ByteArray): Boolean =
+        isFile() && length() == bytes.size().toLong() && Arrays.equals(readBytes(), bytes)
+
 private val REPORT_NOTHING = { (sources: List<File>, output: File) -> }
 
 public fun OutputFileCollection.writeAllTo(outputDir: File) {
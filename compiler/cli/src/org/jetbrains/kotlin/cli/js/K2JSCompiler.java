@@ -132,6 +132,10 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
             return COMPILATION_ERROR;
         }
 
+        if (reportSyntaxErrorsInLibFiles(messageCollector, config)) {
+            return COMPILATION_ERROR;
+        }
+
         if (analyzeAndReportErrors(messageCollector, sourcesFiles, config)) {
             return COMPILATION_ERROR;
         }
@@ -207,6 +211,17 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
                                 CompilerMessageLocation.NO_LOCATION);
     }
 
+    private static boolean reportSyntaxErrorsInLibFiles(@NotNull MessageCollector messageCollector, @NotNull Config config) {
+        boolean hasErrors = false;
+        for (JetFile file : config.getLibFiles()) {
+            hasErrors |= AnalyzerWithCompilerReport.reportSyntaxErrors(file, messageCollector).isHasErrors();
+        }
+        if (!hasErrors) {
+            config.markLibFilesCheckedForSyntaxErrors();
+        }
+        return hasErrors;
+    }
+
     private static boolean analyzeAndReportErrors(@NotNull MessageCollector messageCollector,
             @NotNull final List<JetFile> sources, @NotNull final Config config) {
         AnalyzerWithCompilerReport analyzerWithCompilerReport = new AnalyzerWithCompilerReport(messageCollector);
@@ -237,7 +252,7 @@ public class K2JSCompiler extends CLICompiler<K2JSCompilerArguments> {
             ContainerUtil.addAllNotNull(libraryFiles, arguments.libraryFiles);
         }
 
-        return new LibrarySourcesConfig(project, moduleId, libraryFiles, ecmaVersion, arguments.sourceMap, inlineEnabled);
+        return new LibrarySourcesConfig(project, moduleId, libraryFiles, ecmaVersion, arguments.sourceMap, arguments.compactOutput, inlineEnabled);
     }
 
     public static MainCallParameters createMainCallParameters(String main) {
@@ -161,9 +161,21 @@ public class K2JVMCompiler extends CLICompiler<K2JVMCompilerArguments> {
             }
             else if (arguments.script) {
                 List<String> scriptArgs = arguments.freeArgs.subList(1, arguments.freeArgs.size());
-                JetCoreEnvironment environment =
-                        JetCoreEnvironment.createForProduction(rootDisposable, configuration, EnvironmentConfigFiles.JVM_CONFIG_FILES);
-                KotlinToJVMBytecodeCompiler.compileAndExecuteScript(paths, environment, scriptArgs);
+                CompiledScriptCache scriptCache = arguments.scriptCache == null ? null : CompiledScriptCache.create(
+                        new File(arguments.scriptCache),
+                        new File(arguments.freeArgs.get(0)),
+                        configuration
+                );
+
+                Class<?> scriptClass = scriptCache == null ? null : scriptCache.loadScriptClass(paths);
+                if (scriptClass == null) {
+                    JetCoreEnvironment environment =
+                            JetCoreEnvironment.createForProduction(rootDisposable, configuration, EnvironmentConfigFiles.JVM_CONFIG_FILES);
+                    scriptClass = KotlinToJVMBytecodeCompiler.compileScript(paths, environment, scriptCache);
+                }
+                if (scriptClass != null) {
+                    KotlinToJVMBytecodeCompiler.executeScript(scriptClass, scriptArgs);
+                }
             }
             else {
                 JetCoreEnvironment environment =
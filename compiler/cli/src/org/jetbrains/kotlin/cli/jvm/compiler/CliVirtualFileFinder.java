@@ -16,23 +16,95 @@
 
 package org.jetbrains.kotlin.cli.jvm.compiler;
 
+import com.intellij.openapi.vfs.StandardFileSystems;
 import com.intellij.openapi.vfs.VirtualFile;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.load.kotlin.KotlinBinaryClassCache;
+import org.jetbrains.kotlin.load.kotlin.KotlinJvmBinaryClass;
 import org.jetbrains.kotlin.load.kotlin.VirtualFileFinder;
 import org.jetbrains.kotlin.load.kotlin.VirtualFileKotlinClassFinder;
+import org.jetbrains.kotlin.name.ClassId;
 import org.jetbrains.kotlin.name.FqName;
+import org.jetbrains.kotlin.name.Name;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class CliVirtualFileFinder extends VirtualFileKotlinClassFinder implements VirtualFileFinder {
 
     @NotNull
     private final ClassPath classPath;
 
+    // For each package, the class path roots which may contain it, in the class path order. Jars can't change during compilation, so
+    // only those jars which actually contain the package are kept (as the package directories), and other jars are never probed again.
+    // Class path directories may receive new class files, so they are always kept (as roots) and looked into every time
+    @NotNull
+    private final ConcurrentMap<FqName, List<VirtualFile>> packageDirectoryCandidates = new ConcurrentHashMap<FqName, List<VirtualFile>>();
+
     public CliVirtualFileFinder(@NotNull ClassPath path) {
         classPath = path;
     }
 
+    @Nullable
+    @Override
+    public KotlinJvmBinaryClass findKotlinClass(@NotNull ClassId classId) {
+        FqName packageFqName = classId.getPackageFqName();
+        String fileName = classId.getRelativeClassName().asString().replace('.', '$') + ".class";
+
+        for (VirtualFile candidate : getPackageDirectoryCandidates(packageFqName)) {
+            VirtualFile packageDirectory = isJar(candidate) ? candidate : findPackageDirectory(candidate, packageFqName);
+            if (packageDirectory == null) continue;
+
+            VirtualFile file = packageDirectory.findChild(fileName);
+            if (file == null || !file.isValid()) continue;
+
+            KotlinJvmBinaryClass kotlinClass = KotlinBinaryClassCache.getKotlinBinaryClass(file);
+            if (kotlinClass != null) {
+                return kotlinClass;
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    private List<VirtualFile> getPackageDirectoryCandidates(@NotNull FqName packageFqName) {
+        List<VirtualFile> candidates = packageDirectoryCandidates.get(packageFqName);
+        if (candidates != null) return candidates;
+
+        candidates = new ArrayList<VirtualFile>();
+        for (VirtualFile root : classPath) {
+            if (isJar(root)) {
+                VirtualFile packageDirectory = findPackageDirectory(root, packageFqName);
+                if (packageDirectory != null) {
+                    candidates.add(packageDirectory);
+                }
+            }
+            else {
+                candidates.add(root);
+            }
+        }
+
+        packageDirectoryCandidates.putIfAbsent(packageFqName, candidates);
+        return candidates;
+    }
+
+    private static boolean isJar(@NotNull VirtualFile file) {
+        return StandardFileSystems.JAR_PROTOCOL.equals(file.getFileSystem().getProtocol());
+    }
+
+    @Nullable
+    private static VirtualFile findPackageDirectory(@NotNull VirtualFile root, @NotNull FqName packageFqName) {
+        VirtualFile result = root;
+        for (Name segment : packageFqName.pathSegments()) {
+            result = result.findChild(segment.asString());
+            if (result == null || !result.isDirectory()) return null;
+        }
+        return result;
+    }
+
     @Nullable
     @Override
     public VirtualFile findVirtualFileWithHeader(@NotNull FqName className) {
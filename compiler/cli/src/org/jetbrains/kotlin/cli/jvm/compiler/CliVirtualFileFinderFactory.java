@@ -22,15 +22,16 @@ import org.jetbrains.kotlin.load.kotlin.VirtualFileFinder;
 import org.jetbrains.kotlin.load.kotlin.VirtualFileFinderFactory;
 
 public final class CliVirtualFileFinderFactory implements VirtualFileFinderFactory {
-    private final ClassPath classPath;
+    // The class path doesn't depend on the scope, so a single finder (and its cache of package directories) is shared by all clients
+    private final CliVirtualFileFinder finder;
 
     public CliVirtualFileFinderFactory(@NotNull ClassPath classpath) {
-        this.classPath = classpath;
+        this.finder = new CliVirtualFileFinder(classpath);
     }
 
     @NotNull
     @Override
     public VirtualFileFinder create(@NotNull GlobalSearchScope scope) {
-        return new CliVirtualFileFinder(classPath);
+        return finder;
     }
 }
@@ -19,19 +19,16 @@ package org.jetbrains.kotlin.cli.jvm.compiler;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Disposer;
 import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.util.io.FileUtilRt;
-import com.intellij.openapi.vfs.StandardFileSystems;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.openapi.vfs.VirtualFileManager;
-import com.intellij.openapi.vfs.VirtualFileSystem;
+import com.intellij.openapi.vfs.*;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
 import kotlin.Function1;
 import kotlin.Unit;
-import kotlin.io.IoPackage;
 import kotlin.modules.AllModules;
 import kotlin.modules.Module;
 import org.jetbrains.annotations.NotNull;
@@ -65,12 +62,19 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.*;
 
 import static org.jetbrains.kotlin.cli.common.messages.CompilerMessageLocation.NO_LOCATION;
 import static org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.ERROR;
 
 public class CompileEnvironmentUtil {
+    private static final int MIN_FILES_PER_PARSING_THREAD = 50;
 
     @NotNull
     public static ModuleScriptData loadModuleDescriptions(KotlinPaths paths, String moduleDefinitionFile, MessageCollector messageCollector) {
@@ -252,6 +256,8 @@ public class CompileEnvironmentUtil {
     ) {
         final VirtualFileSystem localFileSystem = VirtualFileManager.getInstance().getFileSystem(StandardFileSystems.FILE_PROTOCOL);
 
+        final PsiManager psiManager = PsiManager.getInstance(project);
+
         final Set<VirtualFile> processedFiles = Sets.newHashSet();
         final List<JetFile> result = Lists.newArrayList();
 
@@ -270,24 +276,67 @@ public class CompileEnvironmentUtil {
                 continue;
             }
 
-            IoPackage.recurse(new File(sourceRootPath), new Function1<File, Unit>() {
+            VfsUtilCore.visitChildrenRecursively(vFile, new VirtualFileVisitor() {
                 @Override
-                public Unit invoke(File file) {
-                    if (file.isFile()) {
-                        VirtualFile virtualFile = localFileSystem.findFileByPath(file.getAbsolutePath());
-                        if (virtualFile != null && !processedFiles.contains(virtualFile)) {
-                            processedFiles.add(virtualFile);
-                            PsiFile psiFile = PsiManager.getInstance(project).findFile(virtualFile);
-                            if (psiFile instanceof JetFile) {
-                                result.add((JetFile) psiFile);
-                            }
+                public boolean visitFile(@NotNull VirtualFile file) {
+                    if (!file.isDirectory() && processedFiles.add(file)) {
+                        PsiFile psiFile = psiManager.findFile(file);
+                        if (psiFile instanceof JetFile) {
+                            result.add((JetFile) psiFile);
                         }
                     }
-                    return Unit.INSTANCE$;
+                    return true;
                 }
             });
         }
 
         return result;
     }
+
+    // Files are parsed lazily on the first access to their AST, which happens one by one during analysis.
+    // Building the trees of different files is independent, so it's done here in a thread pool beforehand
+    public static void parseInParallel(@NotNull List<JetFile> files) {
+        int threadCount = Math.min(Runtime.getRuntime().availableProcessors(), files.size() / MIN_FILES_PER_PARSING_THREAD);
+        if (threadCount <= 1) return;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(@NotNull Runnable runnable) {
+                Thread thread = new Thread(runnable, "Kotlin source parsing thread " + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>(files.size());
+            for (final JetFile file : files) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        ApplicationManager.getApplication().runReadAction(new Runnable() {
+                            @Override
+                            public void run() {
+                                // Accessing the children of a file element makes the lazy-parseable element parse its text
+                                file.getNode().getFirstChildNode();
+                            }
+                        });
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        catch (InterruptedException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+        catch (ExecutionException e) {
+            throw UtilsPackage.rethrow(e.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
 }
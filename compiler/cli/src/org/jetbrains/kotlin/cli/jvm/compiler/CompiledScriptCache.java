@@ -0,0 +1,161 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.CharsetToolkit;
+import kotlin.modules.AllModules;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.backend.common.output.OutputFile;
+import org.jetbrains.kotlin.cli.common.KotlinVersion;
+import org.jetbrains.kotlin.cli.jvm.JVMConfigurationKeys;
+import org.jetbrains.kotlin.codegen.ClassFileFactory;
+import org.jetbrains.kotlin.config.CompilerConfiguration;
+import org.jetbrains.kotlin.name.FqName;
+import org.jetbrains.kotlin.utils.KotlinPaths;
+import org.jetbrains.kotlin.utils.PathUtil;
+import org.jetbrains.kotlin.utils.UtilsPackage;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Keeps classes generated for scripts on disk, so that running an unchanged script again doesn't need to analyze and compile it.
+ *
+ * An entry is a directory named after the hash of the compiler, the script file, the options affecting code generation, the class path and
+ * the annotations path. The compiler and jars on the paths take part in the hash with their size and modification time, since the version
+ * alone doesn't change between development builds. Contents of directories on the paths can't be checked cheaply, so scripts compiled
+ * against them are not cached.
+ */
+public class CompiledScriptCache {
+    private static final String SCRIPT_CLASS_NAME_FILE = "script-class-name.txt";
+
+    @NotNull
+    private final File cacheDirectory;
+    @NotNull
+    private final String key;
+
+    private CompiledScriptCache(@NotNull File cacheDirectory, @NotNull String key) {
+        this.cacheDirectory = cacheDirectory;
+        this.key = key;
+    }
+
+    @Nullable
+    public static CompiledScriptCache create(
+            @NotNull File cacheDirectory,
+            @NotNull File scriptFile,
+            @NotNull CompilerConfiguration configuration
+    ) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            update(digest, KotlinVersion.VERSION);
+            updateWithFile(digest, PathUtil.getResourcePathForClass(CompiledScriptCache.class));
+
+            update(digest, scriptFile.getAbsolutePath());
+            digest.update(FileUtil.loadFileBytes(scriptFile));
+
+            update(digest, String.valueOf(configuration.get(JVMConfigurationKeys.DISABLE_CALL_ASSERTIONS, false)));
+            update(digest, String.valueOf(configuration.get(JVMConfigurationKeys.DISABLE_PARAM_ASSERTIONS, false)));
+            update(digest, String.valueOf(configuration.get(JVMConfigurationKeys.DISABLE_INLINE, false)));
+            update(digest, String.valueOf(configuration.get(JVMConfigurationKeys.DISABLE_OPTIMIZATION, false)));
+
+            for (File file : configuration.getList(JVMConfigurationKeys.CLASSPATH_KEY)) {
+                if (file.isDirectory()) return null;
+                updateWithFile(digest, file);
+            }
+
+            for (File file : configuration.getList(JVMConfigurationKeys.ANNOTATIONS_PATH_KEY)) {
+                if (file.isDirectory()) return null;
+                updateWithFile(digest, file);
+            }
+
+            return new CompiledScriptCache(cacheDirectory, new BigInteger(1, digest.digest()).toString(16));
+        }
+        catch (IOException e) {
+            return null;
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw UtilsPackage.rethrow(e);
+        }
+    }
+
+    private static void updateWithFile(@NotNull MessageDigest digest, @NotNull File file) {
+        update(digest, file.getAbsolutePath());
+        update(digest, file.length() + ":" + file.lastModified());
+    }
+
+    private static void update(@NotNull MessageDigest digest, @NotNull String value) {
+        digest.update(value.getBytes(CharsetToolkit.UTF8_CHARSET));
+        digest.update((byte) 0);
+    }
+
+    @Nullable
+    public Class<?> loadScriptClass(@NotNull KotlinPaths paths) {
+        File entry = new File(cacheDirectory, key);
+        File classNameFile = new File(entry, SCRIPT_CLASS_NAME_FILE);
+        if (!classNameFile.isFile()) return null;
+
+        try {
+            String scriptClassName = FileUtil.loadFile(classNameFile);
+            ClassLoader classLoader = new URLClassLoader(new URL[] {
+                    entry.toURI().toURL(),
+                    paths.getRuntimePath().toURI().toURL()
+            }, AllModules.class.getClassLoader());
+            return classLoader.loadClass(scriptClassName);
+        }
+        catch (IOException e) {
+            return null;
+        }
+        catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    public void save(@NotNull ClassFileFactory factory, @NotNull FqName scriptClassName) {
+        File entry = new File(cacheDirectory, key);
+        if (entry.exists()) return;
+
+        // The entry is written to a temporary directory first, so that a concurrently running script never sees it incomplete
+        File temporaryEntry = null;
+        try {
+            FileUtil.createDirectory(cacheDirectory);
+            temporaryEntry = FileUtil.createTempDirectory(cacheDirectory, key, ".tmp");
+            for (OutputFile outputFile : factory.asList()) {
+                FileUtil.writeToFile(new File(temporaryEntry, outputFile.getRelativePath()), outputFile.asByteArray());
+            }
+            FileUtil.writeToFile(new File(temporaryEntry, SCRIPT_CLASS_NAME_FILE), scriptClassName.asString());
+
+            if (temporaryEntry.renameTo(entry)) {
+                temporaryEntry = null;
+            }
+        }
+        catch (IOException ignored) {
+            // The cache is only an optimization, the script will be compiled again next time
+        }
+        finally {
+            if (temporaryEntry != null) {
+                FileUtil.delete(temporaryEntry);
+            }
+        }
+    }
+}
@@ -244,6 +244,7 @@ public class JetCoreEnvironment {
                         }
                 )
         );
+        CompileEnvironmentUtil.parseInParallel(sourceFiles);
 
         ContainerUtil.sort(sourceFiles, new Comparator<JetFile>() {
             @Override
@@ -223,14 +223,7 @@ public class KotlinToJVMBytecodeCompiler {
         }
     }
 
-    public static void compileAndExecuteScript(
-            @NotNull KotlinPaths paths,
-            @NotNull JetCoreEnvironment environment,
-            @NotNull List<String> scriptArgs
-    ) {
-        Class<?> scriptClass = compileScript(paths, environment);
-        if (scriptClass == null) return;
-
+    public static void executeScript(@NotNull Class<?> scriptClass, @NotNull List<String> scriptArgs) {
         try {
             scriptClass.getConstructor(String[].class).newInstance(new Object[] {ArrayUtil.toStringArray(scriptArgs)});
         }
@@ -244,6 +237,15 @@ public class KotlinToJVMBytecodeCompiler {
 
     @Nullable
     public static Class<?> compileScript(@NotNull KotlinPaths paths, @NotNull JetCoreEnvironment environment) {
+        return compileScript(paths, environment, null);
+    }
+
+    @Nullable
+    public static Class<?> compileScript(
+            @NotNull KotlinPaths paths,
+            @NotNull JetCoreEnvironment environment,
+            @Nullable CompiledScriptCache cache
+    ) {
         List<AnalyzerScriptParameter> scriptParameters = environment.getConfiguration().getList(JVMConfigurationKeys.SCRIPT_PARAMETERS);
         if (!scriptParameters.isEmpty()) {
             JetScriptDefinitionProvider.getInstance(environment.getProject()).addScriptDefinition(
@@ -265,6 +267,9 @@ public class KotlinToJVMBytecodeCompiler {
             );
 
             FqName nameForScript = ScriptNameUtil.classNameForScript(environment.getSourceFiles().get(0).getScript());
+            if (cache != null) {
+                cache.save(state.getFactory(), nameForScript);
+            }
             return classLoader.loadClass(nameForScript.asString());
         }
         catch (Exception e) {
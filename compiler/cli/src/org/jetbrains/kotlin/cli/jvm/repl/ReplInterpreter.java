@@ -272,6 +272,8 @@ public class ReplInterpreter {
         }
 
         prepareForTheNextReplLine(topDownAnalysisContext);
+        // Only diagnostics are per line. The rest of the trace is shared with the resolve session, which later lines are resolved
+        // against, so bindings of earlier lines have to stay there. Codegen bindings go to each line's own GenerationState
         trace.clearDiagnostics();
 
         //noinspection ConstantConditions
@@ -458,18 +460,20 @@ public class ReplInterpreter {
         }
 
         public static class AdaptablePackageMemberDeclarationProvider extends DelegatePackageMemberDeclarationProvider {
+            // Providers of all lines, the latest first. They are combined into a single flat provider rather than nesting a new
+            // combined provider for each line, which would make every lookup recurse (and copy the results) once per earlier line
             @NotNull
-            private PackageMemberDeclarationProvider delegateProvider;
+            private final List<PackageMemberDeclarationProvider> delegateProviders = new ArrayList<PackageMemberDeclarationProvider>();
 
             public AdaptablePackageMemberDeclarationProvider(@NotNull PackageMemberDeclarationProvider delegateProvider) {
                 super(delegateProvider);
-                this.delegateProvider = delegateProvider;
+                delegateProviders.add(delegateProvider);
             }
 
             public void addDelegateProvider(PackageMemberDeclarationProvider provider) {
-                delegateProvider = new CombinedPackageMemberDeclarationProvider(Lists.newArrayList(provider, delegateProvider));
+                delegateProviders.add(0, provider);
 
-                setDelegate(delegateProvider);
+                setDelegate(new CombinedPackageMemberDeclarationProvider(new ArrayList<PackageMemberDeclarationProvider>(delegateProviders)));
             }
         }
     }
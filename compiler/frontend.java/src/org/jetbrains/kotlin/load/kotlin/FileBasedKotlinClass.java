@@ -17,7 +17,7 @@
 package org.jetbrains.kotlin.load.kotlin;
 
 import com.intellij.openapi.util.Ref;
-import kotlin.Function3;
+import kotlin.Function4;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.load.java.JvmAnnotationNames;
@@ -42,14 +42,20 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
     private final KotlinClassHeader classHeader;
     private final InnerClassesInfo innerClasses;
 
+    // True if the header pass saw no class annotations except the special ones, which are never reported
+    // by loadClassAnnotations(). In that case loading class annotations doesn't need to read the file again
+    private final boolean hasOnlySpecialClassAnnotations;
+
     protected FileBasedKotlinClass(
             @NotNull ClassId classId,
             @NotNull KotlinClassHeader classHeader,
-            @NotNull InnerClassesInfo innerClasses
+            @NotNull InnerClassesInfo innerClasses,
+            boolean hasOnlySpecialClassAnnotations
     ) {
         this.classId = classId;
         this.classHeader = classHeader;
         this.innerClasses = innerClasses;
+        this.hasOnlySpecialClassAnnotations = hasOnlySpecialClassAnnotations;
     }
 
     private static class OuterAndInnerName {
@@ -85,10 +91,11 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
     @Nullable
     public static <T extends FileBasedKotlinClass> T create(
             @NotNull byte[] fileContents,
-            @NotNull Function3<ClassId, KotlinClassHeader, InnerClassesInfo, T> factory
+            @NotNull Function4<ClassId, KotlinClassHeader, InnerClassesInfo, Boolean, T> factory
     ) {
         final ReadKotlinClassHeaderAnnotationVisitor readHeaderVisitor = new ReadKotlinClassHeaderAnnotationVisitor();
         final Ref<String> classNameRef = Ref.create();
+        final Ref<Boolean> hasNonSpecialClassAnnotations = Ref.create(false);
         final InnerClassesInfo innerClasses = new InnerClassesInfo();
         new ClassReader(fileContents).accept(new ClassVisitor(ASM5) {
             @Override
@@ -105,6 +112,9 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
 
             @Override
             public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(@NotNull String desc, boolean visible) {
+                if (!isSpecialAnnotation(desc, innerClasses)) {
+                    hasNonSpecialClassAnnotations.set(true);
+                }
                 return convertAnnotationVisitor(readHeaderVisitor, desc, innerClasses);
             }
 
@@ -121,7 +131,7 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
         if (header == null) return null;
 
         ClassId id = resolveNameByInternalName(className, innerClasses);
-        return factory.invoke(id, header, innerClasses);
+        return factory.invoke(id, header, innerClasses, !hasNonSpecialClassAnnotations.get());
     }
 
     @NotNull
@@ -138,9 +148,15 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
 
     @Override
     public void loadClassAnnotations(@NotNull final AnnotationVisitor annotationVisitor) {
+        if (hasOnlySpecialClassAnnotations) {
+            annotationVisitor.visitEnd();
+            return;
+        }
+
         new ClassReader(getFileContents()).accept(new ClassVisitor(ASM5) {
             @Override
             public org.jetbrains.org.objectweb.asm.AnnotationVisitor visitAnnotation(@NotNull String desc, boolean visible) {
+                if (isSpecialAnnotation(desc, innerClasses)) return null;
                 return convertAnnotationVisitor(annotationVisitor, desc, innerClasses);
             }
 
@@ -249,6 +265,10 @@ public abstract class FileBasedKotlinClass implements KotlinJvmBinaryClass {
         }, SKIP_CODE | SKIP_DEBUG | SKIP_FRAMES);
     }
 
+    private static boolean isSpecialAnnotation(@NotNull String desc, @NotNull InnerClassesInfo innerClasses) {
+        return JvmAnnotationNames.isSpecialAnnotation(resolveNameByDesc(desc, innerClasses), false);
+    }
+
     @NotNull
     private static ClassId resolveNameByDesc(@NotNull String desc, @NotNull InnerClassesInfo innerClasses) {
         assert desc.startsWith("L") && desc.endsWith(";") : "Not a JVM descriptor: " + desc;
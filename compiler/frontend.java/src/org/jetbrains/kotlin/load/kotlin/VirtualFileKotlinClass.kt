@@ -29,8 +29,9 @@ public class VirtualFileKotlinClass private(
         public val file: VirtualFile,
         className: ClassId,
         classHeader: KotlinClassHeader,
-        innerClasses: FileBasedKotlinClass.InnerClassesInfo
-) : FileBasedKotlinClass(className, classHeader, innerClasses) {
+        innerClasses: FileBasedKotlinClass.InnerClassesInfo,
+        hasOnlySpecialClassAnnotations: Boolean
+) : FileBasedKotlinClass(className, classHeader, innerClasses, hasOnlySpecialClassAnnotations) {
 
     override fun getFileContents(): ByteArray {
         try {
@@ -57,8 +58,8 @@ public class VirtualFileKotlinClass private(
 
             try {
                 return FileBasedKotlinClass.create(byteContent) {
-                    name, header, innerClasses ->
-                    VirtualFileKotlinClass(file, name, header, innerClasses)
+                    name, header, innerClasses, hasOnlySpecialClassAnnotations ->
+                    VirtualFileKotlinClass(file, name, header, innerClasses, hasOnlySpecialClassAnnotations)
                 }
             }
             catch (e: Throwable) {
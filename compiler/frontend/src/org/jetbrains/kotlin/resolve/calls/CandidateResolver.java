@@ -117,6 +117,14 @@ public class CandidateResolver {
             candidateCall.addStatus(OTHER_ERROR);
         }
 
+        ResolutionStatus receiverStatus = candidateCall.getStatus();
+        if (receiverStatus == RECEIVER_TYPE_ERROR || receiverStatus == RECEIVER_PRESENCE_ERROR) {
+            // No further error can make such a candidate applicable or change the way it's reported (see ResolutionResultsHandler),
+            // so there's no need to check type arguments and value arguments for it.
+            // It happens for most of the extensions with the same name collected from the scope
+            return;
+        }
+
         List<JetTypeProjection> jetTypeArguments = context.call.getTypeArguments();
         if (!jetTypeArguments.isEmpty()) {
             // Explicit type arguments passed
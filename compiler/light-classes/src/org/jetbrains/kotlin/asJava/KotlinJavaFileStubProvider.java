@@ -62,6 +62,7 @@ import org.jetbrains.org.objectweb.asm.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.jetbrains.kotlin.resolve.DescriptorToSourceUtils.descriptorToDeclaration;
 
@@ -279,6 +280,9 @@ public class KotlinJavaFileStubProvider<T extends WithFileStubAndExtraDiagnostic
 
     private static final Logger LOG = Logger.getInstance(KotlinJavaFileStubProvider.class);
 
+    // Number of stubs generated so far, reported in debug logging to see how often light classes are rebuilt
+    private static final AtomicInteger generatedStubCount = new AtomicInteger();
+
     private final Project project;
     private final StubGenerationStrategy<T> stubGenerationStrategy;
     private final boolean local;
@@ -301,6 +305,8 @@ public class KotlinJavaFileStubProvider<T extends WithFileStubAndExtraDiagnostic
 
         checkForBuiltIns(packageFqName, files);
 
+        long start = System.nanoTime();
+
         LightClassConstructionContext context = stubGenerationStrategy.getContext(files);
 
         PsiJavaFileStub javaFileStub = createJavaFileStub(packageFqName, files);
@@ -345,6 +351,12 @@ public class KotlinJavaFileStubProvider<T extends WithFileStubAndExtraDiagnostic
             throw e;
         }
 
+        int stubNumber = generatedStubCount.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Light class stub #" + stubNumber + " generated in " +
+                      (System.nanoTime() - start) / 1000000 + " ms by " + stubGenerationStrategy);
+        }
+
         Diagnostics extraDiagnostics = forExtraDiagnostics.getBindingContext().getDiagnostics();
         return Result.create(
                 stubGenerationStrategy.createLightClassData(javaFileStub, bindingContext, extraDiagnostics),
@@ -0,0 +1,5 @@
+package library.broken
+
+public fun test() {
+    val s = System.in
+}
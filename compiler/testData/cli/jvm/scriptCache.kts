@@ -0,0 +1,3 @@
+// Classes of a freshly compiled script are defined from memory, so they have no code source
+val codeSource = object {}.javaClass.getProtectionDomain().getCodeSource()
+println(if (codeSource == null) "compiled" else "loaded from cache")
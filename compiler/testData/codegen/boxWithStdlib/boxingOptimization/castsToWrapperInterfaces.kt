@@ -0,0 +1,30 @@
+import java.io.Serializable
+import kotlin.test.assertEquals
+
+inline fun <R, T> foo(x : R, y : R, block : (R) -> T) : T {
+    val a = x is Comparable<*>
+    val b = x is Serializable
+
+    val a1 = x as Comparable<*>
+    val b1 = x as Serializable
+
+    if (a && b) {
+        return block(x)
+    } else {
+        return block(y)
+    }
+}
+
+inline fun <T : Comparable<T>> bounded(x : T, block : (T) -> Boolean) : Boolean {
+    val c = x as Comparable<T>
+    return block(x)
+}
+
+fun box() : String {
+    assertEquals(2, foo(1, 2) { x -> x + 1 })
+    assertEquals('b', foo('a', 'c') { x -> x + 1 })
+    assertEquals(true, bounded(1) { x -> x > 0 })
+    assertEquals(false, bounded(-1L) { x -> x > 0 })
+
+    return "OK"
+}
@@ -0,0 +1,14 @@
+import kotlin.test.assertEquals
+
+inline fun <T> str(x : T) : String = "<$x>"
+
+fun box() : String {
+    assertEquals("<1>", str(1.toByte()))
+    assertEquals("<-1>", str((-1).toShort()))
+    assertEquals("<a>", str('a'))
+    assertEquals("<true>", str(true))
+    assertEquals("<10000000000>", str(10000000000L))
+    assertEquals("<1.5>", str(1.5))
+
+    return "OK"
+}
@@ -0,0 +1,31 @@
+import java.io.Serializable
+
+inline fun <R, T> foo(x : R, y : R, block : (R) -> T) : T {
+    val a = x is Comparable<*>
+    val b = x is Serializable
+
+    val a1 = x as Comparable<*>
+    val b1 = x as Serializable
+
+    if (a && b) {
+        return block(x)
+    } else {
+        return block(y)
+    }
+}
+
+inline fun <T : Comparable<T>> bounded(x : T, block : (T) -> Boolean) : Boolean {
+    val c = x as Comparable<T>
+    return block(x)
+}
+
+fun bar() {
+    foo(1, 2) { x -> x + 1 }
+    bounded(1) { x -> x > 0 }
+}
+
+// 0 valueOf
+// 0 Value\s\(\)
+// 1 INSTANCEOF java/lang/Comparable
+// 1 INSTANCEOF java/io/Serializable
+// 1 CHECKCAST java/io/Serializable
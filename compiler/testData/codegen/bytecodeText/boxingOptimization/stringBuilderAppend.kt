@@ -0,0 +1,18 @@
+inline fun <T> str(x : T) : String = "<$x>"
+
+fun bar() {
+    str(1.toByte())
+    str(1.toShort())
+    str('a')
+    str(true)
+    str(1L)
+    str(1.0)
+}
+
+// 0 valueOf
+// 2 append \(I\)
+// 1 append \(C\)
+// 1 append \(Z\)
+// 1 append \(J\)
+// 1 append \(D\)
+// 1 append \(Ljava/lang/Object;\)
@@ -0,0 +1,27 @@
+package a
+
+class A
+class B {
+    fun bar(s: String) = s
+}
+
+fun A.foo(i: Int) = i
+
+fun A.bar(i: Int) = i
+
+fun A.baz(i: Int) = i
+fun B.baz(s: String) = s
+
+fun A.qux(i: Int) = i
+fun B.qux(s: String) = s
+fun B.qux(b: Boolean) = b
+
+fun test(b: B, i: Int) {
+    b.<!UNRESOLVED_REFERENCE_WRONG_RECEIVER!>foo<!>("")
+    b.<!UNRESOLVED_REFERENCE_WRONG_RECEIVER!>foo<!>(<!UNRESOLVED_REFERENCE!>x<!>)
+    b.<!UNRESOLVED_REFERENCE_WRONG_RECEIVER!>foo<!> { <!UNRESOLVED_REFERENCE!>y<!> }
+
+    b.bar(<!TYPE_MISMATCH!>i<!>)
+    b.baz(<!TYPE_MISMATCH!>i<!>)
+    b.<!NONE_APPLICABLE!>qux<!>(i)
+}
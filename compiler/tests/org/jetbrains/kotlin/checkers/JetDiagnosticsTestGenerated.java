@@ -4346,6 +4346,12 @@ public class JetDiagnosticsTestGenerated extends AbstractJetDiagnosticsTest {
                 String fileName = JetTestUtils.navigationMetadata("compiler/testData/diagnostics/tests/extensions/throwOutCandidatesByReceiver2.kt");
                 doTest(fileName);
             }
+
+            @TestMetadata("wrongReceiverWithWrongArguments.kt")
+            public void testWrongReceiverWithWrongArguments() throws Exception {
+                String fileName = JetTestUtils.navigationMetadata("compiler/testData/diagnostics/tests/extensions/wrongReceiverWithWrongArguments.kt");
+                doTest(fileName);
+            }
         }
 
         @TestMetadata("compiler/testData/diagnostics/tests/functionLiterals")
@@ -228,6 +228,12 @@ public class KotlincExecutableTestGenerated extends AbstractKotlincExecutableTes
             doJsTest(fileName);
         }
 
+        @TestMetadata("syntaxErrorInLibrary.args")
+        public void testSyntaxErrorInLibrary() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("compiler/testData/cli/js/syntaxErrorInLibrary.args");
+            doJsTest(fileName);
+        }
+
         @TestMetadata("withFolderAsLib.args")
         public void testWithFolderAsLib() throws Exception {
             String fileName = JetTestUtils.navigationMetadata("compiler/testData/cli/js/withFolderAsLib.args");
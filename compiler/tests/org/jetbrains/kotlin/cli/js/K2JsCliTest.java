@@ -84,6 +84,13 @@ public class K2JsCliTest extends CliBaseTest {
         Assert.assertFalse(new File(tmpdir.getTmpDir(), "out.js").isFile());
     }
 
+    @Test
+    public void syntaxErrorInLibrary() throws Exception {
+        executeCompilerCompareOutputJS();
+
+        Assert.assertFalse(new File(tmpdir.getTmpDir(), "out.js").isFile());
+    }
+
     @Test
     public void jsCodeError() throws Exception {
         executeCompilerCompareOutputJS();
@@ -16,13 +16,20 @@
 
 package org.jetbrains.kotlin.cli.jvm;
 
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.io.FileUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.cli.common.ExitCode;
 import org.jetbrains.kotlin.load.kotlin.PackageClassUtils;
 import org.jetbrains.kotlin.name.FqName;
 import org.jetbrains.kotlin.cli.CliBaseTest;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.PrintStream;
+import java.util.Arrays;
 
 public class K2JvmCliTest extends CliBaseTest {
     @Test
@@ -61,4 +68,80 @@ public class K2JvmCliTest extends CliBaseTest {
     public void conflictingOverloads() throws Exception {
         executeCompilerCompareOutputJVM();
     }
+
+    @Test
+    public void manySourceFiles() throws Exception {
+        // Enough files for source files to be parsed in several threads, each of them depending on the previous one
+        int fileCount = 400;
+        File sources = new File(tmpdir.getTmpDir(), "src");
+        for (int i = 0; i < fileCount; i++) {
+            String body = i == 0 ? "0" : "p" + (i - 1) + ".f" + (i - 1) + "() + 1";
+            FileUtil.writeToFile(new File(sources, "file" + i + ".kt"), "package p" + i + "\n\nfun f" + i + "(): Int = " + body + "\n");
+        }
+        File output = new File(tmpdir.getTmpDir(), "out");
+
+        Pair<String, ExitCode> outputAndExitCode =
+                executeCompilerGrabOutput(new K2JVMCompiler(), Arrays.asList(sources.getPath(), "-d", output.getPath()));
+        Assert.assertEquals(outputAndExitCode.first, ExitCode.OK, outputAndExitCode.second);
+
+        for (int i = 0; i < fileCount; i++) {
+            String packageClassName = PackageClassUtils.getPackageClassName(new FqName("p" + i));
+            Assert.assertTrue(new File(output, "p" + i + "/" + packageClassName + ".class").isFile());
+        }
+    }
+
+    @Test
+    public void unchangedOutputNotRewritten() throws Exception {
+        File source = new File(tmpdir.getTmpDir(), "source.kt");
+        File output = new File(tmpdir.getTmpDir(), "out");
+        File packageClass = new File(output, PackageClassUtils.getPackageClassName(FqName.ROOT) + ".class");
+        long oldTimestamp = 1000000000000L;
+
+        FileUtil.writeToFile(source, "fun foo() = 1\n");
+        compile(source, output);
+        Assert.assertTrue(packageClass.setLastModified(oldTimestamp));
+
+        compile(source, output);
+        Assert.assertEquals(oldTimestamp, packageClass.lastModified());
+
+        FileUtil.writeToFile(source, "fun foo() = 1\n\nfun bar() = 2\n");
+        byte[] oldBytes = FileUtil.loadFileBytes(packageClass);
+        compile(source, output);
+        Assert.assertTrue(packageClass.lastModified() != oldTimestamp);
+        Assert.assertFalse(Arrays.equals(oldBytes, FileUtil.loadFileBytes(packageClass)));
+    }
+
+    private static void compile(@NotNull File source, @NotNull File output) {
+        Pair<String, ExitCode> outputAndExitCode =
+                executeCompilerGrabOutput(new K2JVMCompiler(), Arrays.asList(source.getPath(), "-d", output.getPath()));
+        Assert.assertEquals(outputAndExitCode.first, ExitCode.OK, outputAndExitCode.second);
+    }
+
+    @Test
+    public void scriptCache() throws Exception {
+        String script = "compiler/testData/cli/jvm/scriptCache.kts";
+        String cache = new File(tmpdir.getTmpDir(), "cache").getPath();
+
+        Assert.assertEquals("compiled", runScript("-script", script, "-Xscript-cache", cache));
+        Assert.assertEquals("loaded from cache", runScript("-script", script, "-Xscript-cache", cache));
+
+        // Options affecting code generation are a part of the cache key
+        Assert.assertEquals("compiled", runScript("-script", script, "-Xscript-cache", cache, "-Xno-inline"));
+        Assert.assertEquals("loaded from cache", runScript("-script", script, "-Xscript-cache", cache, "-Xno-inline"));
+    }
+
+    @NotNull
+    private static String runScript(@NotNull String... args) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream origOut = System.out;
+        try {
+            System.setOut(new PrintStream(bytes));
+            Pair<String, ExitCode> outputAndExitCode = executeCompilerGrabOutput(new K2JVMCompiler(), Arrays.asList(args));
+            Assert.assertEquals(outputAndExitCode.first, ExitCode.OK, outputAndExitCode.second);
+        }
+        finally {
+            System.setOut(origOut);
+        }
+        return bytes.toString("utf-8").trim();
+    }
 }
@@ -26,6 +26,9 @@ public interface KotlinJvmBinaryClass {
     @NotNull
     ClassId getClassId();
 
+    /**
+     * Special annotations (see {@link org.jetbrains.kotlin.load.java.JvmAnnotationNames#isSpecialAnnotation}) are not reported
+     */
     void loadClassAnnotations(@NotNull AnnotationVisitor visitor);
 
     void visitMembers(@NotNull MemberVisitor visitor);
@@ -158,13 +158,12 @@ public class BitEncoding {
     @NotNull
     public static byte[] decodeBytes(@NotNull String[] data) {
         byte[] bytes = combineStringArrayIntoBytes(data);
-        // Adding 0x7f modulo max byte value is equivalent to subtracting 1 the same modulo, which is inverse to what happens in encodeBytes
-        addModuloByte(bytes, 0x7f);
         return decode7to8(bytes);
     }
 
     /**
-     * Combines the array of strings resulted from encodeBytes() into one long byte array
+     * Combines the array of strings resulted from encodeBytes() into one long byte array. Each byte is decremented by one modulo max byte
+     * value on the way, which is inverse to what happens in encodeBytes(), so that no separate pass over the array is needed
      */
     @NotNull
     private static byte[] combineStringArrayIntoBytes(@NotNull String[] data) {
@@ -178,7 +177,8 @@ public class BitEncoding {
         int p = 0;
         for (String s : data) {
             for (int i = 0, n = s.length(); i < n; i++) {
-                result[p++] = (byte) s.charAt(i);
+                // Adding 0x7f modulo max byte value is equivalent to subtracting 1 the same modulo
+                result[p++] = (byte) ((s.charAt(i) + 0x7f) & 0x7f);
             }
         }
 
@@ -22,6 +22,7 @@ import org.jetbrains.kotlin.descriptors.*
 import org.jetbrains.kotlin.descriptors.annotations.Annotations
 import org.jetbrains.kotlin.descriptors.impl.*
 import org.jetbrains.kotlin.resolve.DescriptorFactory
+import org.jetbrains.kotlin.utils.toReadOnlyList
 import org.jetbrains.kotlin.serialization.ProtoBuf.Callable
 import org.jetbrains.kotlin.serialization.ProtoBuf.Callable.CallableKind.*
 
@@ -183,7 +184,7 @@ public class MemberDeserializer(private val c: DeserializationContext) {
                     if (proto.hasVarargElementType()) c.typeDeserializer.type(proto.getVarargElementType()) else null,
                     SourceElement.NO_SOURCE
             )
-        }
+        }.toReadOnlyList()
     }
 
     private fun getParameterAnnotations(
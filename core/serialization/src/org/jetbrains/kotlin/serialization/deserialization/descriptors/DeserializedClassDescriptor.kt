@@ -32,6 +32,7 @@ import org.jetbrains.kotlin.types.JetType
 import org.jetbrains.kotlin.serialization.deserialization
 import org.jetbrains.kotlin.name.SpecialNames.getClassObjectName
 import org.jetbrains.kotlin.utils.addIfNotNull
+import org.jetbrains.kotlin.utils.toReadOnlyList
 import org.jetbrains.kotlin.resolve.scopes.JetScope
 import org.jetbrains.kotlin.resolve.scopes.DescriptorKindFilter
 import java.util.*
@@ -132,7 +133,7 @@ public class DeserializedClassDescriptor(
         for (supertype in classProto.getSupertypeList()) {
             supertypes.add(c.typeDeserializer.type(supertype))
         }
-        return supertypes
+        return supertypes.toReadOnlyList()
     }
 
     override fun toString() = "deserialized class ${getName().toString()}" // not using descriptor render to preserve laziness
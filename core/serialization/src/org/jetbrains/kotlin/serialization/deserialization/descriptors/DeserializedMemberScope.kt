@@ -33,7 +33,7 @@ public abstract class DeserializedMemberScope protected(
         membersList: Collection<ProtoBuf.Callable>
 ) : JetScope {
 
-    private data class ProtoKey(val name: Name, val kind: Kind, val isExtension: Boolean)
+    private data class ProtoKey(val kind: Kind, val isExtension: Boolean)
     private enum class Kind { FUNCTION PROPERTY }
 
     private fun CallableKind.toKind(): Kind {
@@ -46,6 +46,8 @@ public abstract class DeserializedMemberScope protected(
 
     private val membersProtos =
             c.storageManager.createLazyValue { groupByKey(filteredMemberProtos(membersList)) }
+    private val memberNames =
+            c.storageManager.createMemoizedFunction<ProtoKey, List<Name>> { computeMemberNames(it) }
     private val functions =
             c.storageManager.createMemoizedFunction<Name, Collection<FunctionDescriptor>> { computeFunctions(it) }
     private val properties =
@@ -53,17 +55,16 @@ public abstract class DeserializedMemberScope protected(
 
     protected open fun filteredMemberProtos(allMemberProtos: Collection<ProtoBuf.Callable>): Collection<ProtoBuf.Callable> = allMemberProtos
 
+    // Members are serialized in the order of MemberComparator: grouped by kind and presence of a receiver, and sorted by name
+    // within each group. Splitting them into these groups (which only requires flags) preserves that order, so a member can later
+    // be found by binary search over names without resolving the names of all other members
     private fun groupByKey(membersList: Collection<ProtoBuf.Callable>): Map<ProtoKey, List<ProtoBuf.Callable>> {
         val map = LinkedHashMap<ProtoKey, MutableList<ProtoBuf.Callable>>()
         for (memberProto in membersList) {
-            val key = ProtoKey(
-                    c.nameResolver.getName(memberProto.getName()),
-                    Flags.CALLABLE_KIND[memberProto.getFlags()].toKind(),
-                    memberProto.hasReceiverType()
-            )
+            val key = ProtoKey(Flags.CALLABLE_KIND[memberProto.getFlags()].toKind(), memberProto.hasReceiverType())
             var protos = map[key]
             if (protos == null) {
-                protos = ArrayList(1)
+                protos = ArrayList()
                 map.put(key, protos)
             }
             protos!!.add(memberProto)
@@ -71,9 +72,41 @@ public abstract class DeserializedMemberScope protected(
         return map
     }
 
+    private fun ProtoBuf.Callable.nameString(): String = c.nameResolver.getString(getName())
+
+    private fun findByName(protos: List<ProtoBuf.Callable>, name: Name): List<ProtoBuf.Callable> {
+        val nameString = name.asString()
+
+        var low = 0
+        var high = protos.size()
+        while (low < high) {
+            val middle = (low + high) ushr 1
+            if (protos[middle].nameString() < nameString) {
+                low = middle + 1
+            }
+            else {
+                high = middle
+            }
+        }
+
+        var end = low
+        while (end < protos.size() && protos[end].nameString() == nameString) {
+            end++
+        }
+        return protos.subList(low, end)
+    }
+
+    private fun computeMemberNames(key: ProtoKey): List<Name> {
+        return membersProtos()[key].orEmpty().map { c.nameResolver.getName(it.getName()) }.distinct()
+    }
+
+    private fun getMemberProtos(name: Name, kind: Kind, isExtension: Boolean): List<ProtoBuf.Callable> {
+        val protos = membersProtos()[ProtoKey(kind, isExtension)] ?: return listOf()
+        return findByName(protos, name)
+    }
+
     private fun <D : CallableMemberDescriptor> computeMembers(name: Name, kind: Kind): LinkedHashSet<D> {
-        val memberProtos = membersProtos()[ProtoKey(name, kind, isExtension = false)].orEmpty() +
-                           membersProtos()[ProtoKey(name, kind, isExtension = true)].orEmpty()
+        val memberProtos = getMemberProtos(name, kind, isExtension = false) + getMemberProtos(name, kind, isExtension = true)
 
         [suppress("UNCHECKED_CAST")]
         return memberProtos.mapTo(LinkedHashSet<D>()) { memberProto ->
@@ -149,25 +182,24 @@ public abstract class DeserializedMemberScope protected(
             return
         }
 
-        val keys = membersProtos().keySet().filter { nameFilter(it.name) }
         if (acceptsProperties) {
-            addMembers(result, keys, Kind.PROPERTY) { getProperties(it) }
+            addMembers(result, Kind.PROPERTY, nameFilter) { getProperties(it) }
         }
         if (acceptsFunctions) {
-            addMembers(result, keys, Kind.FUNCTION) { getFunctions(it) }
+            addMembers(result, Kind.FUNCTION, nameFilter) { getFunctions(it) }
         }
     }
 
     private fun addMembers(
             result: MutableCollection<DeclarationDescriptor>,
-            keys: Collection<ProtoKey>,
             kind: Kind,
+            nameFilter: (Name) -> Boolean,
             getMembers: (Name) -> Collection<CallableDescriptor>
     ) {
-        val filteredByKind = keys.filter { it.kind == kind }
         listOf(false, true).forEach { isExtension ->
-            filteredByKind.filter { it.isExtension == isExtension }
-                    .flatMap { getMembers(it.name) }
+            memberNames(ProtoKey(kind, isExtension))
+                    .filter(nameFilter)
+                    .flatMap { getMembers(it) }
                     .filterTo(result) { (it.getExtensionReceiverParameter() != null) == isExtension }
         }
     }
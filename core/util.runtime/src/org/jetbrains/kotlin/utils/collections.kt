@@ -94,4 +94,8 @@ public fun <E> newHashSetWithExpectedSize(expectedSize: Int): HashSet<E> {
 }
 
 public fun <T> Collection<T>.toReadOnlyList(): List<T> =
-        if (isEmpty()) Collections.emptyList() else ArrayList(this)
+        when (size()) {
+            0 -> Collections.emptyList()
+            1 -> Collections.singletonList(first())
+            else -> ArrayList(this)
+        }
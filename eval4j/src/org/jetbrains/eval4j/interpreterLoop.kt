@@ -22,6 +22,7 @@ import org.jetbrains.org.objectweb.asm.tree.MethodNode
 import org.jetbrains.org.objectweb.asm.Type
 import org.jetbrains.org.objectweb.asm.Opcodes.*
 import org.jetbrains.org.objectweb.asm.tree.JumpInsnNode
+import org.jetbrains.org.objectweb.asm.tree.LabelNode
 import org.jetbrains.org.objectweb.asm.tree.VarInsnNode
 import org.jetbrains.org.objectweb.asm.util.Printer
 import org.jetbrains.org.objectweb.asm.tree.TryCatchBlockNode
@@ -84,24 +85,30 @@ public fun interpreterLoop(
         eval: Eval,
         handler: InterpretationEventHandler = InterpretationEventHandler.NONE
 ): InterpreterResult {
-    val firstInsn = m.instructions.getFirst()
-    if (firstInsn == null) throw IllegalArgumentException("Empty method")
+    val insns = m.instructions.toArray()
+    if (insns.size == 0) throw IllegalArgumentException("Empty method")
 
-    var currentInsn = firstInsn!!
+    var currentIndex = 0
+    var currentInsn = insns[0]
 
-    fun goto(nextInsn: AbstractInsnNode?) {
-        if (nextInsn == null) throw IllegalArgumentException("Instruction flow ended with no RETURN")
-        currentInsn = nextInsn
+    fun goto(nextIndex: Int) {
+        if (nextIndex < 0 || nextIndex >= insns.size) throw IllegalArgumentException("Instruction flow ended with no RETURN")
+        currentIndex = nextIndex
+        currentInsn = insns[nextIndex]
     }
 
+    fun goto(label: LabelNode) = goto(m.instructions.indexOf(label))
+
     val interpreter = SingleInstructionInterpreter(eval)
     val frame = Frame(initialState)
     val handlers = computeHandlers(m)
+    val jumpTargets = computeJumpTargets(m)
+    val expectedReturnType = Type.getReturnType(m.desc)
 
     class ResultException(val result: InterpreterResult): RuntimeException()
 
     fun exceptionCaught(exceptionValue: Value, instanceOf: (Type) -> Boolean): Boolean {
-        val catchBlocks = handlers[m.instructions.indexOf(currentInsn)] ?: listOf()
+        val catchBlocks = handlers[currentIndex] ?: listOf()
         for (catch in catchBlocks) {
             val exceptionTypeInternalName = catch.type
             if (exceptionTypeInternalName != null) {
@@ -157,7 +164,7 @@ public fun interpreterLoop(
                 else -> {
                     when (insnOpcode) {
                         GOTO -> {
-                            goto((currentInsn as JumpInsnNode).label)
+                            goto(jumpTargets[currentIndex])
                             continue
                         }
 
@@ -174,7 +181,7 @@ public fun interpreterLoop(
 
                         IRETURN, LRETURN, FRETURN, DRETURN, ARETURN -> {
                             val value = frame.getStackTop()
-                            val expectedType = Type.getReturnType(m.desc)
+                            val expectedType = expectedReturnType
                             if (expectedType.getSort() == Type.OBJECT || expectedType.getSort() == Type.ARRAY) {
                                 val coerced = if (value != NULL_VALUE && value.asmType != expectedType)
                                                     ObjectValue(value.obj(), expectedType)
@@ -199,14 +206,14 @@ public fun interpreterLoop(
                         IFEQ, IFNE, IFLT, IFGE, IFGT, IFLE, IFNULL, IFNONNULL -> {
                             if (interpreter.checkUnaryCondition(frame.getStackTop(), insnOpcode)) {
                                 frame.execute(currentInsn, interpreter)
-                                goto((currentInsn as JumpInsnNode).label)
+                                goto(jumpTargets[currentIndex])
                                 continue
                             }
                         }
                         IF_ICMPEQ, IF_ICMPNE, IF_ICMPLT, IF_ICMPGE, IF_ICMPGT, IF_ICMPLE, IF_ACMPEQ, IF_ACMPNE -> {
                             if (interpreter.checkBinaryCondition(frame.getStackTop(1), frame.getStackTop(0), insnOpcode)) {
                                 frame.execute(currentInsn, interpreter)
-                                goto((currentInsn as JumpInsnNode).label)
+                                goto(jumpTargets[currentIndex])
                                 continue
                             }
                         }
@@ -249,7 +256,7 @@ public fun interpreterLoop(
             val handled = handler.instructionProcessed(currentInsn)
             if (handled != null) return handled
 
-            goto(currentInsn.getNext())
+            goto(currentIndex + 1)
         }
     }
     catch(e: ResultException) {
@@ -275,4 +282,15 @@ fun computeHandlers(m: MethodNode): Array<out List<TryCatchBlockNode>?> {
     }
 
     return handlers
+}
+
+// Indices of jump targets, so that taking a branch doesn't need to look the label up in the instruction list
+private fun computeJumpTargets(m: MethodNode): IntArray {
+    val insns = m.instructions
+    val targets = IntArray(insns.size())
+    for (i in 0..insns.size() - 1) {
+        val insn = insns[i]
+        targets[i] = if (insn is JumpInsnNode) insns.indexOf(insn.label) else -1
+    }
+    return targets
 }
\ No newline at end of file
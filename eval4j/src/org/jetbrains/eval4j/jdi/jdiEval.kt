@@ -23,6 +23,7 @@ import com.sun.jdi.ClassNotLoadedException
 import com.sun.tools.jdi.ReferenceTypeImpl
 import com.sun.jdi.ObjectReference
 import com.sun.jdi.Method
+import java.util.HashMap
 
 val CLASS = Type.getType(javaClass<Class<*>>())
 val BOOTSTRAP_CLASS_DESCRIPTORS = setOf("Ljava/lang/String;", "Ljava/lang/ClassLoader;", "Ljava/lang/Class;")
@@ -45,7 +46,16 @@ public class JDIEval(
             Type.DOUBLE_TYPE.getClassName() to vm.mirrorOf(1.0).type()
     )
 
+    // Each lookup of a class is at least one round-trip to the debuggee, and the same classes are usually referenced many times during
+    // one evaluation, so classes (and their reflected types) are cached for the lifetime of this JDIEval
+    private val classes = HashMap<Type, Value>()
+    private val referenceTypes = HashMap<Type, jdi.ReferenceType>()
+
     override fun loadClass(classType: Type): Value {
+        return classes.getOrPut(classType) { doLoadClass(classType) }
+    }
+
+    private fun doLoadClass(classType: Type): Value {
         val loadedClasses = vm.classesByName(classType.getInternalName())
         if (!loadedClasses.isEmpty()) {
             val loadedClass = loadedClasses[0]
@@ -89,7 +99,7 @@ public class JDIEval(
                 listOf(value)).boolean
     }
 
-    fun Type.asReferenceType(): jdi.ReferenceType = loadClass(this).jdiClass!!.reflectedType()
+    fun Type.asReferenceType(): jdi.ReferenceType = referenceTypes.getOrPut(this) { loadClass(this).jdiClass!!.reflectedType() }
     fun Type.asArrayType(): jdi.ArrayType = asReferenceType() as jdi.ArrayType
 
     override fun newArray(arrayType: Type, size: Int): Value {
@@ -25,6 +25,10 @@ import java.io.DataInput
 import org.jetbrains.kotlin.name.FqName
 import com.intellij.util.io.DataExternalizer
 import org.jetbrains.kotlin.serialization.jvm.BitEncoding
+import org.jetbrains.kotlin.serialization.jvm.JvmProtoBufUtil
+import org.jetbrains.kotlin.serialization.ClassData
+import org.jetbrains.kotlin.serialization.Flags
+import org.jetbrains.kotlin.serialization.ProtoBuf
 import java.util.Arrays
 import org.jetbrains.org.objectweb.asm.*
 import com.intellij.util.io.EnumeratorStringDescriptor
@@ -148,13 +152,13 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
             return when {
                 header.isCompatiblePackageFacadeKind() ->
                     getRecompilationDecision(
-                            protoChanged = protoMap.put(className, data),
+                            protoChanged = protoMap.put(className, data, isPackage = true),
                             constantsChanged = false,
                             inlinesChanged = false
                     )
                 header.isCompatibleClassKind() ->
                     getRecompilationDecision(
-                            protoChanged = protoMap.put(className, data),
+                            protoChanged = protoMap.put(className, data, isPackage = false),
                             constantsChanged = constantsMap.process(className, fileBytes),
                             inlinesChanged = inlineFunctionsMap.process(className, fileBytes)
                     )
@@ -287,14 +291,42 @@ public class IncrementalCacheImpl(targetDataRoot: File) : StorageOwner, Incremen
                 ByteArrayExternalizer
         )
 
-        public fun put(className: JvmClassName, data: ByteArray): Boolean {
+        public fun put(className: JvmClassName, data: ByteArray, isPackage: Boolean): Boolean {
             val key = className.getInternalName()
             val oldData = storage[key]
             if (Arrays.equals(data, oldData)) {
                 return false
             }
             storage.put(key, data)
-            return true
+            return oldData == null || isPackage || !onlyPrivateMembersChanged(oldData, data)
+        }
+
+        // Private members of a class can only be used from the file where the class is declared, which is recompiled anyway.
+        // Names are stored as indices into the string tables, so the rest of the class can be compared byte by byte only
+        // when the tables agree on all the indices they have in common. Otherwise the class is conservatively treated as changed
+        private fun onlyPrivateMembersChanged(oldData: ByteArray, newData: ByteArray): Boolean {
+            val oldClassData = ClassData.read(oldData, JvmProtoBufUtil.getExtensionRegistry())
+            val newClassData = ClassData.read(newData, JvmProtoBufUtil.getExtensionRegistry())
+
+            if (!Arrays.equals(oldClassData.getClassProto().withoutPrivateMembers(), newClassData.getClassProto().withoutPrivateMembers())) {
+                return false
+            }
+
+            val oldNameResolver = oldClassData.getNameResolver()
+            val newNameResolver = newClassData.getNameResolver()
+            return haveCommonPrefix(oldNameResolver.getStringTable().getStringList(), newNameResolver.getStringTable().getStringList()) &&
+                   haveCommonPrefix(oldNameResolver.getQualifiedNameTable().getQualifiedNameList().map { it.toByteString() },
+                                    newNameResolver.getQualifiedNameTable().getQualifiedNameList().map { it.toByteString() })
+        }
+
+        private fun ProtoBuf.Class.withoutPrivateMembers(): ByteArray {
+            val nonPrivateMembers = getMemberList().filter { Flags.VISIBILITY.get(it.getFlags()) != ProtoBuf.Visibility.PRIVATE }
+            return toBuilder().clearMember().addAllMember(nonPrivateMembers).build().toByteArray()
+        }
+
+        private fun <T> haveCommonPrefix(first: List<T>, second: List<T>): Boolean {
+            val size = Math.min(first.size(), second.size())
+            return first.subList(0, size) == second.subList(0, size)
         }
 
         public fun get(className: JvmClassName): ByteArray? {
@@ -26,15 +26,16 @@ class LocalFileKotlinClass private(
         private val fileContents: ByteArray,
         className: ClassId,
         classHeader: KotlinClassHeader,
-        innerClasses: FileBasedKotlinClass.InnerClassesInfo
-) : FileBasedKotlinClass(className, classHeader, innerClasses) {
+        innerClasses: FileBasedKotlinClass.InnerClassesInfo,
+        hasOnlySpecialClassAnnotations: Boolean
+) : FileBasedKotlinClass(className, classHeader, innerClasses, hasOnlySpecialClassAnnotations) {
 
     class object {
         fun create(file: File): LocalFileKotlinClass? {
             val fileContents = file.readBytes()
             return FileBasedKotlinClass.create(fileContents) {
-                className, classHeader, innerClasses ->
-                LocalFileKotlinClass(file, fileContents, className, classHeader, innerClasses)
+                className, classHeader, innerClasses, hasOnlySpecialClassAnnotations ->
+                LocalFileKotlinClass(file, fileContents, className, classHeader, innerClasses, hasOnlySpecialClassAnnotations)
             }
         }
     }
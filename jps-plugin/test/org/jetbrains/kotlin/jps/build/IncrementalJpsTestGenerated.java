@@ -369,6 +369,30 @@ public class IncrementalJpsTestGenerated extends AbstractIncrementalJpsTest {
             doTest(fileName);
         }
 
+        @TestMetadata("privateMemberAdded")
+        public void testPrivateMemberAdded() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("jps-plugin/testData/incremental/pureKotlin/privateMemberAdded/");
+            doTest(fileName);
+        }
+
+        @TestMetadata("privateMemberAddedShiftingNames")
+        public void testPrivateMemberAddedShiftingNames() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("jps-plugin/testData/incremental/pureKotlin/privateMemberAddedShiftingNames/");
+            doTest(fileName);
+        }
+
+        @TestMetadata("privateMemberMadePublic")
+        public void testPrivateMemberMadePublic() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("jps-plugin/testData/incremental/pureKotlin/privateMemberMadePublic/");
+            doTest(fileName);
+        }
+
+        @TestMetadata("privateMemberRemoved")
+        public void testPrivateMemberRemoved() throws Exception {
+            String fileName = JetTestUtils.navigationMetadata("jps-plugin/testData/incremental/pureKotlin/privateMemberRemoved/");
+            doTest(fileName);
+        }
+
         @TestMetadata("propertyRedeclaration")
         public void testPropertyRedeclaration() throws Exception {
             String fileName = JetTestUtils.navigationMetadata("jps-plugin/testData/incremental/pureKotlin/propertyRedeclaration/");
@@ -0,0 +1,5 @@
+package test
+
+class Klass {
+    fun foo() = ":)"
+}
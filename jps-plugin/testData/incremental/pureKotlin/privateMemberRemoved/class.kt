@@ -0,0 +1,7 @@
+package test
+
+class Klass {
+    fun foo() = ":)"
+
+    private fun zoo() = ":("
+}
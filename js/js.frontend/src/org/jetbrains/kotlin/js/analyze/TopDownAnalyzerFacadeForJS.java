@@ -38,9 +38,7 @@ import org.jetbrains.kotlin.psi.JetFile;
 import org.jetbrains.kotlin.resolve.*;
 import org.jetbrains.kotlin.resolve.lazy.declarations.FileBasedDeclarationProviderFactory;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 public final class TopDownAnalyzerFacadeForJS {
     public static final List<ImportPath> DEFAULT_IMPORTS = ImmutableList.of(
@@ -124,12 +122,14 @@ public final class TopDownAnalyzerFacadeForJS {
     }
 
     @NotNull
-    private static Predicate<PsiFile> notLibFiles(@NotNull final List<JetFile> jsLibFiles) {
+    private static Predicate<PsiFile> notLibFiles(@NotNull List<JetFile> jsLibFiles) {
+        // The predicate is checked for each file of the module and the libraries, so the lookup should not depend on the number of files
+        final Set<JetFile> jsLibFileSet = new HashSet<JetFile>(jsLibFiles);
         return new Predicate<PsiFile>() {
             @Override
             public boolean apply(@Nullable PsiFile file) {
                 assert file instanceof JetFile;
-                @SuppressWarnings("UnnecessaryLocalVariable") boolean notLibFile = !jsLibFiles.contains(file);
+                @SuppressWarnings("UnnecessaryLocalVariable") boolean notLibFile = !jsLibFileSet.contains(file);
                 return notLibFile;
             }
         };
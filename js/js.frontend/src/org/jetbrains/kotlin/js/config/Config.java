@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.kotlin.descriptors.ModuleDescriptor;
 import org.jetbrains.kotlin.psi.JetFile;
+import org.jetbrains.kotlin.resolve.AnalyzingUtils;
 import org.jetbrains.kotlin.resolve.BindingContext;
 import org.jetbrains.kotlin.resolve.BindingTrace;
 import org.jetbrains.kotlin.resolve.BindingTraceContext;
@@ -41,6 +42,7 @@ public abstract class Config {
     private final Project project;
     @Nullable
     private List<JetFile> libFiles = null;
+    private boolean libFilesCheckedForSyntaxErrors = false;
     @NotNull
     private final EcmaVersion target;
 
@@ -49,6 +51,8 @@ public abstract class Config {
 
     private final boolean sourcemap;
 
+    private final boolean compactOutput;
+
     @NotNull
     private final BindingTrace trace = new BindingTraceContext();
 
@@ -58,11 +62,23 @@ public abstract class Config {
             @NotNull EcmaVersion ecmaVersion,
             boolean sourcemap,
             boolean inlineEnabled
+    ) {
+        this(project, moduleId, ecmaVersion, sourcemap, /* compactOutput = */ false, inlineEnabled);
+    }
+
+    public Config(
+            @NotNull Project project,
+            @NotNull String moduleId,
+            @NotNull EcmaVersion ecmaVersion,
+            boolean sourcemap,
+            boolean compactOutput,
+            boolean inlineEnabled
     ) {
         this.project = project;
         this.target = ecmaVersion;
         this.moduleId = moduleId;
         this.sourcemap = sourcemap;
+        this.compactOutput = compactOutput;
         this.inlineEnabled = inlineEnabled;
     }
 
@@ -70,6 +86,10 @@ public abstract class Config {
         return sourcemap;
     }
 
+    public boolean isCompactOutput() {
+        return compactOutput;
+    }
+
     public boolean isInlineEnabled() {
         return inlineEnabled;
     }
@@ -102,6 +122,21 @@ public abstract class Config {
         return libFiles;
     }
 
+    // Library files are the same for every translation with this config, so their trees are walked only once
+    public void checkLibFilesForSyntaxErrors() {
+        if (libFilesCheckedForSyntaxErrors) return;
+
+        for (JetFile file : getLibFiles()) {
+            AnalyzingUtils.checkForSyntacticErrors(file);
+        }
+        libFilesCheckedForSyntaxErrors = true;
+    }
+
+    // For callers that have already reported syntax errors in library files themselves
+    public void markLibFilesCheckedForSyntaxErrors() {
+        libFilesCheckedForSyntaxErrors = true;
+    }
+
     @Nullable
     public BindingContext getLibraryContext() {
         return null;
@@ -63,7 +63,19 @@ public class LibrarySourcesConfig extends Config {
             boolean sourcemap,
             boolean inlineEnabled
     ) {
-        super(project, moduleId, ecmaVersion, sourcemap, inlineEnabled);
+        this(project, moduleId, files, ecmaVersion, sourcemap, /* compactOutput = */ false, inlineEnabled);
+    }
+
+    public LibrarySourcesConfig(
+            @NotNull Project project,
+            @NotNull String moduleId,
+            @NotNull List<String> files,
+            @NotNull EcmaVersion ecmaVersion,
+            boolean sourcemap,
+            boolean compactOutput,
+            boolean inlineEnabled
+    ) {
+        super(project, moduleId, ecmaVersion, sourcemap, compactOutput, inlineEnabled);
         this.files = files;
     }
 
@@ -44,6 +44,7 @@ public class LibrarySourcesConfigWithCaching extends LibrarySourcesConfig {
             Arrays.asList(PathUtil.getKotlinPathsForDistDirectory().getJsStdLibJarPath().getAbsolutePath());
 
     private static List<JetFile> jsLibFiles;
+    private static boolean jsLibFilesCheckedForSyntaxErrors;
     private static AnalysisResult result;
 
     private BindingContext libraryContext;
@@ -59,7 +60,19 @@ public class LibrarySourcesConfigWithCaching extends LibrarySourcesConfig {
             boolean inlineEnabled,
             boolean isUnitTestConfig
     ) {
-        super(project, moduleId, JS_STDLIB, ecmaVersion, sourcemap, inlineEnabled);
+        this(project, moduleId, ecmaVersion, sourcemap, /* compactOutput = */ false, inlineEnabled, isUnitTestConfig);
+    }
+
+    public LibrarySourcesConfigWithCaching(
+            @NotNull Project project,
+            @NotNull String moduleId,
+            @NotNull EcmaVersion ecmaVersion,
+            boolean sourcemap,
+            boolean compactOutput,
+            boolean inlineEnabled,
+            boolean isUnitTestConfig
+    ) {
+        super(project, moduleId, JS_STDLIB, ecmaVersion, sourcemap, compactOutput, inlineEnabled);
         this.isUnitTestConfig = isUnitTestConfig;
     }
 
@@ -73,6 +86,15 @@ public class LibrarySourcesConfigWithCaching extends LibrarySourcesConfig {
         return jsLibFiles;
     }
 
+    @Override
+    public void checkLibFilesForSyntaxErrors() {
+        if (!jsLibFilesCheckedForSyntaxErrors) {
+            super.checkLibFilesForSyntaxErrors();
+            //noinspection AssignmentToStaticFieldFromInstanceMethod
+            jsLibFilesCheckedForSyntaxErrors = true;
+        }
+    }
+
 
 
     @Nullable
@@ -25,7 +25,6 @@ private class ReferenceTracker<Reference, RemoveCandidate : JsNode> {
     private val reachable = IdentityHashMap<Reference, Boolean>()
     private val removableCandidates = IdentityHashMap<Reference, RemoveCandidate>()
     private val referenceFromTo = IdentityHashMap<Reference, MutableSet<Reference>>()
-    private val visited = IdentitySet<Reference>()
 
     public val removable: List<RemoveCandidate>
         get() {
@@ -52,16 +51,12 @@ private class ReferenceTracker<Reference, RemoveCandidate : JsNode> {
     }
 
     public fun markReachable(reference: Reference) {
-        if (!isKnown(reference)) return
+        // Everything referenced from a reachable candidate is marked right when it becomes reachable
+        // (or when a reference is added later), so there's no need to traverse it again
+        if (!isKnown(reference) || isReachable(reference)) return
 
-        visited.add(reference)
-        getReferencedBy(reference)
-                .filterNot { it in visited }
-                .filter { isKnown(it) && !isReachable(it) }
-                .forEach { markReachable(it) }
-
-        visited.remove(reference)
         reachable[reference] = true
+        referenceFromTo[reference]?.forEach { markReachable(it) }
     }
 
     private fun getReferencedBy(referrer: Reference): MutableSet<Reference> {
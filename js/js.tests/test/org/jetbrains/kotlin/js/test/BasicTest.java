@@ -202,6 +202,10 @@ public abstract class BasicTest extends KotlinTestWithEnvironment {
         return false;
     }
 
+    protected boolean shouldGenerateCompactOutput() {
+        return false;
+    }
+
     protected Consumer<JsNode> getConsumer() {
         //noinspection unchecked
         return Consumer.EMPTY_CONSUMER;
@@ -280,10 +284,12 @@ public abstract class BasicTest extends KotlinTestWithEnvironment {
     @NotNull
     private Config createConfig(@NotNull Project project, @NotNull String moduleId, @NotNull EcmaVersion ecmaVersion, @Nullable List<String> libraries) {
         if (libraries == null) {
-            return new LibrarySourcesConfigWithCaching(project, moduleId, ecmaVersion, shouldGenerateSourceMap(), IS_INLINE_ENABLED, shouldBeTranslateAsUnitTestClass());
+            return new LibrarySourcesConfigWithCaching(project, moduleId, ecmaVersion, shouldGenerateSourceMap(), shouldGenerateCompactOutput(),
+                                                       IS_INLINE_ENABLED, shouldBeTranslateAsUnitTestClass());
         }
         else {
-            return new LibrarySourcesConfig(project, moduleId, librariesWithJsStdlib(libraries), ecmaVersion, shouldGenerateSourceMap(), IS_INLINE_ENABLED);
+            return new LibrarySourcesConfig(project, moduleId, librariesWithJsStdlib(libraries), ecmaVersion, shouldGenerateSourceMap(),
+                                            shouldGenerateCompactOutput(), IS_INLINE_ENABLED);
         }
     }
 
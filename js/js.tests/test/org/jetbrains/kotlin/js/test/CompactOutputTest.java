@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2015 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.test;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.js.test.semantics.TranslatorTestCaseBuilder;
+
+@SuppressWarnings("JUnitTestCaseWithNoTests")
+public final class CompactOutputTest extends SingleFileTranslationTest {
+    @NotNull
+    private final String filename;
+    private final boolean generateSourceMap;
+
+    @SuppressWarnings("JUnitTestCaseWithNonTrivialConstructors")
+    public CompactOutputTest(@NotNull String filename, boolean generateSourceMap) {
+        super("compactOutput/");
+        this.filename = filename;
+        this.generateSourceMap = generateSourceMap;
+    }
+
+    @Override
+    protected boolean shouldGenerateCompactOutput() {
+        return true;
+    }
+
+    @Override
+    protected boolean shouldGenerateSourceMap() {
+        return generateSourceMap;
+    }
+
+    @Override
+    public void runTest() throws Exception {
+        checkFooBoxIsOk(filename);
+    }
+
+    public static Test suite() throws Exception {
+        TestSuite suite = new TestSuite(CompactOutputTest.class.getName());
+        suite.addTest(suiteForDirectory(false));
+        suite.addTest(suiteForDirectory(true));
+        return suite;
+    }
+
+    @NotNull
+    private static Test suiteForDirectory(final boolean generateSourceMap) {
+        TestSuite suite = TranslatorTestCaseBuilder
+                .suiteForDirectory(TEST_DATA_DIR_PATH + "compactOutput/cases/", new TranslatorTestCaseBuilder.NamedTestFactory() {
+                    @NotNull
+                    @Override
+                    public Test createTest(@NotNull String filename) {
+                        CompactOutputTest test = new CompactOutputTest(filename, generateSourceMap);
+                        test.setName(generateSourceMap ? filename + " with source map" : filename);
+                        return test;
+                    }
+                });
+        suite.setName(generateSourceMap ? "with source map" : "without source map");
+        return suite;
+    }
+}
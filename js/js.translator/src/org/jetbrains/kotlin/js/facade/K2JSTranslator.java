@@ -76,7 +76,7 @@ public final class K2JSTranslator {
             @NotNull Consumer<JsNode> astConsumer // hack for tests
     ) throws TranslationException, IOException {
         K2JSTranslator translator = new K2JSTranslator(config);
-        TextOutputImpl output = new TextOutputImpl();
+        TextOutputImpl output = new TextOutputImpl(config.isCompactOutput());
         SourceMapBuilder sourceMapBuilder = config.isSourcemap() ? new SourceMap3Builder(outputFile, output, new SourceMapBuilderConsumer()) : null;
         Status<String> codeStatus = translator.generateProgramCode(files, mainCall, output, sourceMapBuilder, astConsumer);
 
@@ -95,7 +95,9 @@ public final class K2JSTranslator {
             }
         });
 
-        SimpleOutputFile jsFile = new SimpleOutputFile(sourceFiles, outputFile.getName(), prefix + programCode + postfix);
+        // Concatenation copies the whole program, which may be large, so it's avoided when there's nothing to add
+        String jsCode = prefix.isEmpty() && postfix.isEmpty() ? programCode : prefix + programCode + postfix;
+        SimpleOutputFile jsFile = new SimpleOutputFile(sourceFiles, outputFile.getName(), jsCode);
         List<SimpleOutputFile> outputFiles = new SmartList<SimpleOutputFile>(jsFile);
 
         if (sourceMapBuilder != null) {
@@ -166,7 +168,8 @@ public final class K2JSTranslator {
             throws TranslationException {
         AnalysisResult analysisResult = TopDownAnalyzerFacadeForJS.analyzeFiles(filesToTranslate, Predicates.<PsiFile>alwaysTrue(), config);
         BindingContext bindingContext = analysisResult.getBindingContext();
-        TopDownAnalyzerFacadeForJS.checkForErrors(Config.withJsLibAdded(filesToTranslate, config), bindingContext);
+        TopDownAnalyzerFacadeForJS.checkForErrors(filesToTranslate, bindingContext);
+        config.checkLibFilesForSyntaxErrors();
         ModuleDescriptor moduleDescriptor = analysisResult.getModuleDescriptor();
         return Translation.generateAst(bindingContext, filesToTranslate, mainCallParameters, moduleDescriptor, config);
     }
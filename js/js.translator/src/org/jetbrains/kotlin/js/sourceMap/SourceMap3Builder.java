@@ -18,7 +18,6 @@ package org.jetbrains.kotlin.js.sourceMap;
 
 import com.google.dart.compiler.common.SourceInfo;
 import com.google.dart.compiler.util.TextOutput;
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.util.PairConsumer;
 import gnu.trove.TObjectIntHashMap;
 
@@ -45,6 +44,8 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     private final List<String> orderedSources = new ArrayList<String>();
 
+    private int skippedLinesAtBeginning;
+
     private int previousGeneratedColumn = -1;
     private int previousSourceIndex;
     private int previousSourceLine;
@@ -63,11 +64,14 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     @Override
     public String build() {
-        StringBuilder sb = new StringBuilder(out.length() + (128 * orderedSources.size()));
+        StringBuilder sb = new StringBuilder(skippedLinesAtBeginning + out.length() + (128 * orderedSources.size()));
         sb.append("{\"version\":3,\"file\":\"").append(generatedFile.getName()).append('"').append(',');
         appendSources(sb);
         sb.append(",\"names\":[");
         sb.append("],\"mappings\":\"");
+        for (int i = 0; i < skippedLinesAtBeginning; i++) {
+            sb.append(';');
+        }
         sb.append(out);
         sb.append("\"}");
         return sb.toString();
@@ -96,7 +100,8 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     @Override
     public void skipLinesAtBeginning(int count) {
-        out.insert(0, StringUtil.repeatSymbol(';', count));
+        // Inserting into the beginning of mappings would move all of them, they're prepended in build() instead
+        skippedLinesAtBeginning += count;
     }
 
     @Override
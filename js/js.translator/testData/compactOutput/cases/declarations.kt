@@ -0,0 +1,40 @@
+package foo
+
+trait Shape {
+    fun area(): Int
+}
+
+class Rectangle(val width: Int, val height: Int) : Shape {
+    override fun area() = width * height
+}
+
+object Square : Shape {
+    override fun area() = 4
+}
+
+fun sum(shapes: List<Shape>): Int {
+    var result = 0
+    for (shape in shapes) {
+        result += shape.area()
+    }
+    return result
+}
+
+fun box(): String {
+    val shapes = arrayListOf(Rectangle(2, 3), Square)
+    if (sum(shapes) != 10) return "fail1: ${sum(shapes)}"
+
+    val doubled = shapes.map { it.area() * 2 }
+    if (doubled.size() != 2 || doubled[0] != 12 || doubled[1] != 8) return "fail2"
+
+    var caught = false
+    try {
+        throw IllegalStateException()
+    }
+    catch (e: IllegalStateException) {
+        caught = true
+    }
+    if (!caught) return "fail3"
+
+    return "OK"
+}
@@ -0,0 +1,28 @@
+package foo
+
+fun box(): String {
+    var a = 5
+    val b = -3
+    val c = a - -b
+    if (c != 2) return "fail1: $c"
+
+    var d = a++ + ++a
+    if (d != 12) return "fail2: $d"
+
+    d = -(-d)
+    if (d != 12) return "fail3: $d"
+
+    val e = if (a > 0 && !(b > 0)) "positive" else "negative"
+    if (e != "positive") return "fail4: $e"
+
+    val s = "a  b" + " " + 'c'
+    if (s != "a  b c") return "fail5: $s"
+
+    val w = when (a) {
+        7 -> "seven"
+        else -> "other"
+    }
+    if (w != "seven") return "fail6: $w"
+
+    return "OK"
+}
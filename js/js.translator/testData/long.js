@@ -453,25 +453,18 @@
      *     if the given one is greater.
      */
     Kotlin.Long.prototype.compare = function(other) {
-      if (this.equals(other)) {
-        return 0;
-      }
-
-      var thisNeg = this.isNegative();
-      var otherNeg = other.isNegative();
-      if (thisNeg && !otherNeg) {
-        return -1;
-      }
-      if (!thisNeg && otherNeg) {
-        return 1;
+      // Compare the high bits as signed and the low bits as unsigned values, so
+      // that no intermediate Longs are allocated.
+      if (this.high_ != other.high_) {
+        return this.high_ < other.high_ ? -1 : 1;
       }
 
-      // at this point, the signs are the same, so subtraction will not overflow
-      if (this.subtract(other).isNegative()) {
-        return -1;
-      } else {
-        return 1;
+      var thisLow = this.low_ >>> 0;
+      var otherLow = other.low_ >>> 0;
+      if (thisLow == otherLow) {
+        return 0;
       }
+      return thisLow < otherLow ? -1 : 1;
     };
 
 
@@ -480,7 +473,9 @@
       if (this.equals(Kotlin.Long.MIN_VALUE)) {
         return Kotlin.Long.MIN_VALUE;
       } else {
-        return this.not().add(Kotlin.Long.ONE);
+        // ~x + 1, where the carry reaches the high bits only if the low bits are zero.
+        var low = -this.low_ | 0;
+        return Kotlin.Long.fromBits(low, low == 0 ? ~this.high_ + 1 : ~this.high_);
       }
     };
 
@@ -244,6 +244,8 @@
         var that = this;
         var buckets = [];
         var bucketsByHash = {};
+        // Number of entries in all buckets, maintained on every update so that size() doesn't have to visit each bucket
+        var entryCount = 0;
 
         var hashingFunction = (typeof hashingFunctionParam == FUNCTION) ? hashingFunctionParam : hashObject;
         var equalityFunction = (typeof equalityFunctionParam == FUNCTION) ? equalityFunctionParam : null;
@@ -264,6 +266,7 @@
                 else {
                     // The bucket does not contain an entry for this key, so add one
                     bucket.addEntry(key, value);
+                    entryCount++;
                 }
             }
             else {
@@ -271,6 +274,7 @@
                 bucket = new Bucket(hash, key, value, equalityFunction);
                 buckets[buckets.length] = bucket;
                 bucketsByHash[hash] = bucket;
+                entryCount++;
             }
             return oldValue;
         };
@@ -313,6 +317,7 @@
         this.clear = function () {
             buckets.length = 0;
             bucketsByHash = {};
+            entryCount = 0;
         };
 
         this.isEmpty = function () {
@@ -354,6 +359,7 @@
                 result = bucket.removeEntryForKey(key);
                 if (result !== null) {
                     oldValue = result[1];
+                    entryCount--;
 
                     // Entry was removed, so check if bucket is empty
                     if (!bucket.entries.length) {
@@ -368,11 +374,7 @@
         };
 
         this.size = function () {
-            var total = 0, i = buckets.length;
-            while (i--) {
-                total += buckets[i].entries.length;
-            }
-            return total;
+            return entryCount;
         };
 
         this.each = function (callback) {